@@ -1,5 +1,8 @@
 package core;
 
+import core.profile.TagRule;
+import core.profile.ValidationProfile;
+import core.profile.ValidationProfileLoader;
 import utils.HtmlFileReader;
 import utils.HtmlTagExtractor;
 
@@ -9,16 +12,31 @@ public class HtmlStructureValidator {
     private final HtmlFileReader fileReader;
     private final HtmlTagExtractor tagExtractor;
     private final HtmlTagParser tagParser;
+    private final ValidationProfile profile;
 
+    /**
+     * Cria o validador com o perfil XHTML estrito (aninhamento e fechamento exatos).
+     */
     public HtmlStructureValidator(
             HtmlFileValidator fileValidator,
             HtmlFileReader fileReader,
             HtmlTagExtractor tagExtractor,
             HtmlTagParser tagParser) {
+        this(fileValidator, fileReader, tagExtractor, tagParser,
+                new ValidationProfileLoader().loadBuiltIn(ValidationProfileLoader.XHTML_STRICT));
+    }
+
+    public HtmlStructureValidator(
+            HtmlFileValidator fileValidator,
+            HtmlFileReader fileReader,
+            HtmlTagExtractor tagExtractor,
+            HtmlTagParser tagParser,
+            ValidationProfile profile) {
         this.fileValidator = fileValidator;
         this.fileReader = fileReader;
         this.tagExtractor = tagExtractor;
         this.tagParser = tagParser;
+        this.profile = profile;
     }
 
     /**
@@ -78,8 +96,13 @@ public class HtmlStructureValidator {
             // Normaliza o nome da tag (minúsculas, sem atributos)
             String normalizedTagName = getNormalizedTagName(rawTag);
 
-            // Tratamento especial para tags como script/style
-            if (needsSpecialHandling(rawTag, normalizedTagName)) {
+            // Consulta única à tabela de regras do perfil
+            TagRule rule = profile.getRule(normalizedTagName);
+
+            // Tratamento especial para tags de texto bruto como script/style
+            if (needsSpecialHandling(rawTag, rule)) {
+                // A tag não é empilhada, mas ainda pode fechar implicitamente a anterior
+                stackProcessor.closeTagsImplicitlyClosedBy(rule);
                 i = handleSpecialTagContent(content, i, normalizedTagName);
                 if (i == -1) { // Fechamento não encontrado
                     return false;
@@ -88,14 +111,17 @@ public class HtmlStructureValidator {
             }
 
             // Verifica se é tag auto-fechável
-            boolean selfClosing = isSelfClosing(rawTag, normalizedTagName);
+            boolean selfClosing = isSelfClosing(rawTag, rule);
 
             // Processa a tag (empilha/desempilha)
-            if (!processTag(stackProcessor, rawTag, normalizedTagName, selfClosing)) {
+            if (!processTag(stackProcessor, rawTag, rule, selfClosing)) {
                 return false; // Erro no processamento
             }
         }
 
+        // Fecha as tags cujo fechamento é opcional no perfil
+        stackProcessor.closeOptionalEndTags();
+
         // Verifica tags não fechadas
         if (!stackProcessor.isStackEmpty()) {
             System.err.println("Tags não fechadas corretamente:");
@@ -171,14 +197,14 @@ public class HtmlStructureValidator {
     }
 
     /**
-     * Verifica se a tag requer tratamento especial (como script ou style).
+     * Verifica se a tag requer tratamento especial (texto bruto, como script ou style).
      *
      * @param rawTag Conteúdo cru da tag.
-     * @param tagName Nome normalizado da tag.
+     * @param rule Regra da tag no perfil.
      * @return true se a tag exigir tratamento especial, false caso contrário.
      */
-    private boolean needsSpecialHandling(String rawTag, String tagName) {
-        return !rawTag.startsWith("/") && tagExtractor.isSpecialTag(tagName);
+    private boolean needsSpecialHandling(String rawTag, TagRule rule) {
+        return !rawTag.startsWith("/") && rule.isRawText();
     }
 
     /**
@@ -187,7 +213,7 @@ public class HtmlStructureValidator {
      * @param content Conteúdo HTML completo.
      * @param currentIndex Índice atual no conteúdo (posição do '>').
      * @param tagName Nome da tag especial.
-     * @return Novo índice após o fechamento da tag especial, ou -1 se não encontrado.
+     * @return Índice do '>' que encerra o fechamento da tag especial, ou -1 se não encontrado.
      */
     private int handleSpecialTagContent(String content, int currentIndex, String tagName) {
         return tagParser.skipSpecialTagContent(content, currentIndex, tagName);
@@ -197,11 +223,11 @@ public class HtmlStructureValidator {
      * Verifica se a tag é auto-fechável (ex: <img/>, <br>).
      *
      * @param rawTag Conteúdo cru da tag.
-     * @param tagName Nome normalizado da tag.
+     * @param rule Regra da tag no perfil.
      * @return true se a tag for auto-fechável, false caso contrário.
      */
-    private boolean isSelfClosing(String rawTag, String tagName) {
-        return tagExtractor.isSelfClosingTag(tagName) || rawTag.endsWith("/");
+    private boolean isSelfClosing(String rawTag, TagRule rule) {
+        return rule.isVoid() || rawTag.endsWith("/");
     }
 
     /**
@@ -209,11 +235,11 @@ public class HtmlStructureValidator {
      *
      * @param processor Instância de TagStackProcessor.
      * @param rawTag Conteúdo cru da tag.
-     * @param tagName Nome normalizado da tag.
+     * @param rule Regra da tag no perfil.
      * @param selfClosing Indica se a tag é auto-fechável.
      * @return true se a tag for processada com sucesso, false em caso de erro estrutural.
      */
-    private boolean processTag(TagStackProcessor processor, String rawTag, String tagName, boolean selfClosing) {
-        return processor.processTag(rawTag, tagName, selfClosing);
+    private boolean processTag(TagStackProcessor processor, String rawTag, TagRule rule, boolean selfClosing) {
+        return processor.processTag(rawTag, rule, selfClosing);
     }
 }
@@ -43,27 +43,52 @@ public class HtmlTagParser {
 
     /**
      * Avança o índice de análise para pular o conteúdo de tags especiais como
-     * <script> e <style> que podem conter caracteres que se parecem com tags HTML.
+     * <script>, <style> e demais tags de texto bruto do perfil, que podem conter
+     * caracteres que se parecem com tags HTML.
      *
      * @param content O conteúdo HTML completo
      * @param currentIndex Posição atual de análise (após a abertura da tag especial)
-     * @param tagName Nome da tag especial (ex: "script" ou "style")
-     * @return A nova posição após o fechamento da tag especial ou -1 se não encontrar
+     * @param tagName Nome da tag especial (ex: "script", "style" ou "textarea")
+     * @return A posição do '>' que encerra o fechamento da tag especial ou -1 se não encontrar
      */
     public int skipSpecialTagContent(String content, int currentIndex, String tagName) {
-        // Constrói a tag de fechamento esperada (ex: </script>)
-        String endTag = String.format("</%s>", tagName);
+        // Procura cada "</" a partir da posição atual
+        int endIndex = content.indexOf("</", currentIndex);
 
-        // Procura a tag de fechamento a partir da posição atual
-        int endIndex = content.indexOf(endTag, currentIndex);
+        while (endIndex != -1) {
+            int nameStart = endIndex + 2;
 
-        // Se não encontrar a tag de fechamento
-        if (endIndex == -1) {
-            return -1;  // Indica HTML mal formado
+            // Compara o nome sem diferenciar maiúsculas (ex: </SCRIPT>)
+            if (content.regionMatches(true, nameStart, tagName, 0, tagName.length())) {
+                int closingIndex = skipWhitespace(content, nameStart + tagName.length());
+
+                // Aceita espaços antes do '>' (ex: </textarea >), mas não nomes mais longos (ex: </titles>)
+                if (closingIndex < content.length() && content.charAt(closingIndex) == '>') {
+                    // Retorna a posição do '>' final, assim como findTagClosingBracket;
+                    // o laço de varredura avança a partir dela sem pular o próximo caractere
+                    return closingIndex;
+                }
+            }
+
+            endIndex = content.indexOf("</", nameStart);
         }
 
-        // Retorna a posição após o fechamento da tag especial
-        return endIndex + endTag.length();
+        // Se não encontrar a tag de fechamento
+        return -1;  // Indica HTML mal formado
+    }
+
+    /**
+     * Avança sobre os espaços em branco a partir da posição informada.
+     *
+     * @param content O conteúdo HTML completo
+     * @param index Posição inicial
+     * @return A posição do primeiro caractere que não é espaço em branco
+     */
+    private int skipWhitespace(String content, int index) {
+        while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+            index++;
+        }
+        return index;
     }
 }
 // Implementa algoritmos específicos de parsing de HTML (encontrar fechamento de tags, pular conteúdo especial).
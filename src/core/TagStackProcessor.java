@@ -1,5 +1,6 @@
 package core;
 
+import core.profile.TagRule;
 import utils.stack.MyStack;
 
 import java.util.ArrayList;
@@ -8,17 +9,19 @@ import java.util.List;
 public class TagStackProcessor {
 
     // Pilha para armazenar as tags abertas aguardando fechamento
-    private final MyStack<String> stack = new MyStack<>();
+    private final MyStack<TagRule> stack = new MyStack<>();
 
     /**
      * Processa uma tag HTML (abertura, fechamento ou auto-fechamento)
      *
      * @param rawTag Conteúdo bruto da tag (ex: "div" ou "/div")
-     * @param tagName Nome normalizado da tag (em minúsculas, sem atributos)
+     * @param rule Regra da tag no perfil de validação
      * @param isSelfClosing Indica se é uma tag auto-fechável (ex: <img/>)
      * @return true se a tag for válida, false se houver erro de estrutura
      */
-    public boolean processTag(String rawTag, String tagName, boolean isSelfClosing) {
+    public boolean processTag(String rawTag, TagRule rule, boolean isSelfClosing) {
+        String tagName = rule.getTagName();
+
         // Validação básica do nome da tag
         if (tagName.isEmpty() || containsInvalidCharacters(tagName)) {
             return false;
@@ -26,29 +29,62 @@ public class TagStackProcessor {
 
         boolean isClosing = rawTag.startsWith("/"); // Verifica se é tag de fechamento
 
+        // Abrir esta tag pode fechar implicitamente a anterior (ex: <li> fecha o <li> aberto, <hr> fecha o <p>)
+        if (!isClosing) {
+            closeTagsImplicitlyClosedBy(rule);
+        }
+
         // Tags auto-fecháveis não podem ter versão de fechamento (ex: </img>)
         if (isSelfClosing) {
             return !isClosing; // Válido apenas se não for tag de fechamento
         }
 
-        // Erro se tentar fechar tag quando não há tags abertas
-        if (isClosing && stack.isEmpty()) {
-            return false;
-        }
-
         // Processamento de tag de fechamento
         if (isClosing) {
-            String top = stack.pop(); // Remove a última tag aberta
+            // Fecha implicitamente as tags com fechamento opcional (ex: </ul> fecha o último <li>)
+            while (!stack.isEmpty() && stack.peek().hasOptionalEnd()
+                    && !tagName.equals(stack.peek().getTagName())) {
+                popImplicitly();
+            }
+
+            // Erro se tentar fechar tag quando não há tags abertas
+            if (stack.isEmpty()) {
+                return false;
+            }
+
+            TagRule top = stack.pop(); // Remove a última tag aberta
             System.out.printf("FECHANDO: </%s> | Pilha após pop: %s%n", tagName, stack);
-            return tagName.equals(top); // Verifica se corresponde à tag aberta
+            return tagName.equals(top.getTagName()); // Verifica se corresponde à tag aberta
         }
 
         // Processamento de tag de abertura
-        stack.push(tagName); // Adiciona à pilha
+        stack.push(rule); // Adiciona à pilha
         System.out.printf("ABRINDO: <%s> | Pilha após push: %s%n", tagName, stack);
         return true;
     }
 
+    /**
+     * Desempilha as tags abertas que a abertura da tag informada fecha implicitamente
+     * (também usado para tags de texto bruto, que não passam por processTag)
+     *
+     * @param rule Regra da tag que está sendo aberta
+     */
+    public void closeTagsImplicitlyClosedBy(TagRule rule) {
+        while (!stack.isEmpty() && rule.closesImplicitly(stack.peek())) {
+            popImplicitly();
+        }
+    }
+
+    /**
+     * Fecha as tags com fechamento opcional que continuam abertas no fim do documento
+     * (ex: </li>, </body> e </html> omitidos em HTML5)
+     */
+    public void closeOptionalEndTags() {
+        while (!stack.isEmpty() && stack.peek().hasOptionalEnd()) {
+            popImplicitly();
+        }
+    }
+
     /**
      * Retorna uma lista de todas as tags não fechadas restantes na pilha
      *
@@ -58,7 +94,7 @@ public class TagStackProcessor {
         List<String> remainingTags = new ArrayList<>();
         // Esvazia a pilha e coleta todas as tags não fechadas
         while (!stack.isEmpty()) {
-            remainingTags.add(stack.pop());
+            remainingTags.add(stack.pop().getTagName());
         }
         return remainingTags;
     }
@@ -72,6 +108,14 @@ public class TagStackProcessor {
         return stack.isEmpty();
     }
 
+    /**
+     * Remove o topo da pilha sem uma tag de fechamento explícita
+     */
+    private void popImplicitly() {
+        TagRule top = stack.pop();
+        System.out.printf("FECHANDO (implícito): </%s> | Pilha após pop: %s%n", top.getTagName(), stack);
+    }
+
     /**
      * Valida se o nome da tag contém caracteres inválidos
      */
@@ -83,8 +127,10 @@ public class TagStackProcessor {
 // Este processador de pilha é responsável por gerenciar a pilha de tags abertas e fechadas.
 // Ele processa as tags HTML, garantindo que as tags de abertura e fechamento estejam corretamente empilhadas e desempilhadas.
 // Se uma tag de fechamento não corresponder à última tag aberta, ele retorna false.
+// Tags com fechamento opcional no perfil (como <li> e <p> em HTML5) são desempilhadas implicitamente
+// quando uma tag de abertura as fecha, quando a tag pai é fechada ou no fim do documento.
 // Ele também verifica se as tags são auto-fechadas e garante que não haja caracteres inválidos nas tags.
-// A classe usa uma pilha personalizada (MyStack) para armazenar as tags abertas e verificar a correspondência com as tags fechadas.
+// A classe usa uma pilha personalizada (MyStack) para armazenar as regras das tags abertas e verificar a correspondência com as tags fechadas.
 // Se a pilha estiver vazia no final do processamento, significa que todas as tags foram fechadas corretamente.
 // Se a pilha não estiver vazia, significa que há tags abertas sem fechamento correspondente, o que resulta em uma estrutura HTML inválida.
 // A classe imprime mensagens de depuração para cada operação de abertura e fechamento de tags, mostrando o estado atual da pilha após cada operação.
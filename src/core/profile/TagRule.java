@@ -0,0 +1,74 @@
+package core.profile;
+
+import java.util.Set;
+
+public class TagRule {
+
+    private final String tagName;
+    private final boolean voidElement;
+    private final boolean rawText;
+    private final boolean optionalEnd;
+    private final Set<String> implicitlyClosedTags;
+
+    /**
+     * Cria a regra padrão para uma tag sem entrada no perfil (ex: custom elements).
+     *
+     * @param tagName Nome normalizado da tag
+     */
+    public TagRule(String tagName) {
+        this(tagName, false, false, false, Set.of());
+    }
+
+    /**
+     * Cria a regra compilada de uma tag.
+     *
+     * @param tagName Nome normalizado da tag
+     * @param voidElement Indica se a tag nunca possui conteúdo nem fechamento (ex: <br>)
+     * @param rawText Indica se o conteúdo da tag deve ser pulado sem análise (ex: <script>)
+     * @param optionalEnd Indica se a tag de fechamento pode ser omitida (ex: <li>)
+     * @param implicitlyClosedTags Tags abertas que são fechadas implicitamente quando esta tag abre
+     */
+    public TagRule(String tagName, boolean voidElement, boolean rawText, boolean optionalEnd,
+                   Set<String> implicitlyClosedTags) {
+        this.tagName = tagName;
+        this.voidElement = voidElement;
+        this.rawText = rawText;
+        this.optionalEnd = optionalEnd;
+        this.implicitlyClosedTags = Set.copyOf(implicitlyClosedTags);
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public boolean isVoid() {
+        return voidElement;
+    }
+
+    public boolean isRawText() {
+        return rawText;
+    }
+
+    public boolean hasOptionalEnd() {
+        return optionalEnd;
+    }
+
+    /**
+     * Verifica se abrir esta tag fecha implicitamente a tag aberta informada.
+     * <p>
+     * O fechamento só acontece se a tag aberta também tiver fechamento opcional.
+     *
+     * @param openRule Regra da tag que está no topo da pilha
+     * @return true se a tag aberta deve ser desempilhada, false caso contrário
+     */
+    public boolean closesImplicitly(TagRule openRule) {
+        return openRule.hasOptionalEnd() && implicitlyClosedTags.contains(openRule.getTagName());
+    }
+
+    @Override
+    public String toString() {
+        return tagName;
+    }
+}
+// Representa a ação compilada de uma tag dentro de um perfil de validação.
+// Cada tag possui no máximo uma regra, consultada uma única vez por ocorrência da tag no documento.
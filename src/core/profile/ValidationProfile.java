@@ -0,0 +1,47 @@
+package core.profile;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ValidationProfile {
+
+    private final String name;
+    private final Map<String, TagRule> rules;
+
+    // Regras padrão já criadas para tags fora da tabela, reaproveitadas nas próximas ocorrências
+    private final Map<String, TagRule> defaultRules = new ConcurrentHashMap<>();
+
+    /**
+     * Cria um perfil a partir da tabela de regras já compilada.
+     *
+     * @param name Nome do perfil (ex: "html5")
+     * @param rules Tabela de regras indexada pelo nome normalizado da tag
+     */
+    public ValidationProfile(String name, Map<String, TagRule> rules) {
+        this.name = name;
+        this.rules = Map.copyOf(rules);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retorna a regra de uma tag com uma única consulta à tabela.
+     * <p>
+     * Tags que o perfil não conhece (como custom elements) recebem a regra padrão:
+     * precisam de fechamento explícito e têm o conteúdo analisado normalmente.
+     *
+     * @param tagName Nome normalizado da tag
+     * @return Regra da tag
+     */
+    public TagRule getRule(String tagName) {
+        TagRule rule = rules.get(tagName);
+        if (rule == null) {
+            return defaultRules.computeIfAbsent(tagName, TagRule::new);
+        }
+        return rule;
+    }
+}
+// Perfil de validação compilado (XHTML estrito, HTML5 ou personalizado).
+// É construído pelo ValidationProfileLoader e não muda durante a validação.
@@ -0,0 +1,219 @@
+package core.profile;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+public class ValidationProfileLoader {
+
+    // Nomes dos perfis embutidos
+    public static final String XHTML_STRICT = "xhtml-strict";
+    public static final String HTML5 = "html5";
+
+    // Chaves aceitas na definição de um perfil (formato .properties)
+    public static final String EXTENDS_KEY = "extends";
+    public static final String VOID_KEY = "void";
+    public static final String RAW_TEXT_KEY = "raw-text";
+    public static final String OPTIONAL_END_KEY = "optional-end";
+    public static final String CLOSED_BY_PREFIX = "closed-by.";
+
+    // XHTML estrito: toda tag precisa de fechamento exato, exceto as tags void
+    private static final String XHTML_STRICT_DEFINITION = String.join("\n",
+            "void = area base br col embed hr img input link meta param source track wbr",
+            "raw-text = script style");
+
+    // HTML5: adiciona tags de texto bruto e tags com fechamento opcional
+    private static final String HTML5_DEFINITION = String.join("\n",
+            "extends = " + XHTML_STRICT,
+            "raw-text = textarea title",
+            "optional-end = html head body p li dt dd rt rp optgroup option colgroup thead tbody tfoot tr td th",
+            "closed-by.head = body",
+            "closed-by.p = address article aside blockquote details dialog div dl fieldset figcaption figure"
+                    + " footer form h1 h2 h3 h4 h5 h6 header hgroup hr main menu nav ol p pre section table ul"
+                    + " li dt dd",
+            "closed-by.li = li",
+            "closed-by.dt = dt dd",
+            "closed-by.dd = dt dd",
+            "closed-by.rt = rt rp",
+            "closed-by.rp = rt rp",
+            "closed-by.option = option optgroup",
+            "closed-by.optgroup = optgroup",
+            "closed-by.colgroup = thead tbody tfoot tr",
+            "closed-by.thead = tbody tfoot",
+            "closed-by.tbody = tbody tfoot",
+            "closed-by.tfoot = tbody",
+            "closed-by.tr = tr thead tbody tfoot",
+            "closed-by.td = td th tr thead tbody tfoot",
+            "closed-by.th = td th tr thead tbody tfoot");
+
+    private static final Map<String, String> BUILT_IN_DEFINITIONS = Map.of(
+            XHTML_STRICT, XHTML_STRICT_DEFINITION,
+            HTML5, HTML5_DEFINITION);
+
+    /**
+     * Carrega um dos perfis embutidos.
+     *
+     * @param profileName Nome do perfil ("xhtml-strict" ou "html5")
+     * @return Perfil compilado
+     * @throws RuntimeException Se o perfil não existir
+     */
+    public ValidationProfile loadBuiltIn(String profileName) {
+        return compile(profileName, readBuiltInDefinition(profileName));
+    }
+
+    /**
+     * Compila um perfil personalizado a partir de uma definição no formato .properties.
+     * <p>
+     * Exemplo de definição para custom elements sobre o HTML5:
+     * <pre>
+     * extends = html5
+     * void = my-icon
+     * raw-text = my-code
+     * </pre>
+     *
+     * @param profileName Nome dado ao perfil
+     * @param definition Conteúdo da definição
+     * @return Perfil compilado
+     * @throws RuntimeException Se a definição for inválida
+     */
+    public ValidationProfile load(String profileName, String definition) {
+        return compile(profileName, parseDefinition(definition));
+    }
+
+    /**
+     * Transforma a definição (e as definições herdadas) na tabela de regras por tag.
+     *
+     * @param profileName Nome do perfil
+     * @param definition Definição já lida
+     * @return Perfil compilado
+     */
+    private ValidationProfile compile(String profileName, Properties definition) {
+        Set<String> voidTags = new HashSet<>();
+        Set<String> rawTextTags = new HashSet<>();
+        Set<String> optionalEndTags = new HashSet<>();
+        Map<String, Set<String>> implicitlyClosedTags = new HashMap<>();
+
+        collectDefinition(definition, voidTags, rawTextTags, optionalEndTags, implicitlyClosedTags);
+
+        // Uma tag void não tem conteúdo nem fechamento, então não pode ser texto bruto ou ter fechamento opcional
+        for (String voidTag : voidTags) {
+            if (rawTextTags.contains(voidTag) || optionalEndTags.contains(voidTag)) {
+                System.err.printf("A tag '%s' é void e não pode estar em raw-text ou optional-end.%n", voidTag);
+                throw new RuntimeException("Perfil de validação inválido.");
+            }
+        }
+
+        // "closed-by" só tem efeito sobre tags com fechamento opcional
+        for (Set<String> closedTags : implicitlyClosedTags.values()) {
+            for (String closedTag : closedTags) {
+                if (!optionalEndTags.contains(closedTag)) {
+                    System.err.printf("A tag '%s' aparece em closed-by mas não está em optional-end.%n", closedTag);
+                    throw new RuntimeException("Perfil de validação inválido.");
+                }
+            }
+        }
+
+        // Toda tag citada em alguma regra recebe uma entrada na tabela
+        Set<String> tagNames = new HashSet<>();
+        tagNames.addAll(voidTags);
+        tagNames.addAll(rawTextTags);
+        tagNames.addAll(optionalEndTags);
+        tagNames.addAll(implicitlyClosedTags.keySet());
+
+        Map<String, TagRule> rules = new HashMap<>();
+        for (String tagName : tagNames) {
+            rules.put(tagName, new TagRule(
+                    tagName,
+                    voidTags.contains(tagName),
+                    rawTextTags.contains(tagName),
+                    optionalEndTags.contains(tagName),
+                    implicitlyClosedTags.getOrDefault(tagName, Set.of())));
+        }
+
+        return new ValidationProfile(profileName, rules);
+    }
+
+    /**
+     * Acumula as regras de uma definição, aplicando antes as do perfil herdado.
+     *
+     * @param definition Definição a ser aplicada
+     */
+    private void collectDefinition(Properties definition, Set<String> voidTags, Set<String> rawTextTags,
+                                   Set<String> optionalEndTags, Map<String, Set<String>> implicitlyClosedTags) {
+        String parentName = definition.getProperty(EXTENDS_KEY);
+        if (parentName != null) {
+            collectDefinition(readBuiltInDefinition(parentName.trim()), voidTags, rawTextTags, optionalEndTags,
+                    implicitlyClosedTags);
+        }
+
+        for (String key : definition.stringPropertyNames()) {
+            Set<String> tags = splitTags(definition.getProperty(key));
+
+            if (key.equals(EXTENDS_KEY)) {
+                continue;
+            } else if (key.equals(VOID_KEY)) {
+                voidTags.addAll(tags);
+            } else if (key.equals(RAW_TEXT_KEY)) {
+                rawTextTags.addAll(tags);
+            } else if (key.equals(OPTIONAL_END_KEY)) {
+                optionalEndTags.addAll(tags);
+            } else if (key.startsWith(CLOSED_BY_PREFIX)) {
+                // "closed-by.p = div" vira "abrir <div> fecha <p>" na tabela
+                String closedTag = key.substring(CLOSED_BY_PREFIX.length()).toLowerCase();
+                for (String openingTag : tags) {
+                    implicitlyClosedTags.computeIfAbsent(openingTag, tag -> new HashSet<>()).add(closedTag);
+                }
+            } else {
+                System.err.printf("Chave desconhecida no perfil: '%s'.%n", key);
+                throw new RuntimeException("Perfil de validação inválido.");
+            }
+        }
+    }
+
+    /**
+     * Retorna a definição de um perfil embutido.
+     *
+     * @param profileName Nome do perfil
+     * @return Definição do perfil
+     * @throws RuntimeException Se o perfil não existir
+     */
+    private Properties readBuiltInDefinition(String profileName) {
+        String definition = BUILT_IN_DEFINITIONS.get(profileName);
+        if (definition == null) {
+            System.err.printf("Perfil desconhecido: '%s'.%n", profileName);
+            throw new RuntimeException("Perfil de validação desconhecido.");
+        }
+        return parseDefinition(definition);
+    }
+
+    private Properties parseDefinition(String definition) {
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader(definition));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return properties;
+    }
+
+    /**
+     * Separa uma lista de tags por espaços, normalizando para minúsculas.
+     */
+    private Set<String> splitTags(String value) {
+        Set<String> tags = new HashSet<>();
+        for (String tag : value.trim().split("\\s+")) {
+            if (!tag.isEmpty()) {
+                tags.add(tag.toLowerCase());
+            }
+        }
+        return tags;
+    }
+}
+// Lê e compila os perfis de validação (embutidos ou personalizados) em uma tabela de regras por tag.
+// As definições usam o formato .properties: listas de tags separadas por espaço para cada tipo de regra.
+// Um perfil pode herdar de um perfil embutido com a chave "extends", somando as regras do pai às suas.
+// Toda a interpretação acontece aqui, uma única vez; durante a validação resta apenas consultar a tabela.
@@ -3,6 +3,8 @@ package ui;
 import core.HtmlFileValidator;
 import core.HtmlStructureValidator;
 import core.HtmlTagParser;
+import core.profile.ValidationProfile;
+import core.profile.ValidationProfileLoader;
 import utils.HtmlFileReader;
 import utils.HtmlTagExtractor;
 
@@ -11,6 +13,11 @@ import java.io.File;
 
 public class HtmlValidatorUI {
 
+    // Opções de perfil exibidas ao usuário
+    private static final String XHTML_STRICT_OPTION = "XHTML estrito";
+    private static final String HTML5_OPTION = "HTML5";
+    private static final String CUSTOM_OPTION = "Perfil personalizado...";
+
     public void show() {
         JFileChooser fileChooser = new JFileChooser();
         int result = fileChooser.showOpenDialog(null);
@@ -24,13 +31,21 @@ public class HtmlValidatorUI {
         File selectedFile = fileChooser.getSelectedFile();
         String filePath = selectedFile.getAbsolutePath();
 
-        HtmlStructureValidator validator = new HtmlStructureValidator(
-                new HtmlFileValidator(),
-                new HtmlFileReader(),
-                new HtmlTagExtractor(),
-                new HtmlTagParser());
-
         try {
+            ValidationProfile profile = selectProfile();
+            if (profile == null) {
+                JOptionPane.showMessageDialog(null, "Nenhum perfil selecionado.", "Aviso",
+                        JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+
+            HtmlStructureValidator validator = new HtmlStructureValidator(
+                    new HtmlFileValidator(),
+                    new HtmlFileReader(),
+                    new HtmlTagExtractor(),
+                    new HtmlTagParser(),
+                    profile);
+
             boolean isValid = validator.isValidHtml(filePath);
 
             if (isValid) {
@@ -41,9 +56,42 @@ public class HtmlValidatorUI {
                         JOptionPane.ERROR_MESSAGE);
             }
         } catch (RuntimeException e) {
-            // Aqui captura a exceção lançada no fileValidator.validate(filePath)
+            // Aqui captura a exceção lançada no fileValidator.validate(filePath) ou na carga do perfil
             JOptionPane.showMessageDialog(null, e.getMessage(), "Erro",
                     JOptionPane.ERROR_MESSAGE);
         }
     }
+
+    /**
+     * Pede o perfil ao usuário e o carrega, pedindo o arquivo de definição no caso do perfil personalizado.
+     *
+     * @return Perfil compilado, ou null se nenhum perfil (ou arquivo de perfil) for selecionado
+     */
+    private ValidationProfile selectProfile() {
+        Object option = JOptionPane.showInputDialog(null, "Escolha o perfil de validação:",
+                "Perfil", JOptionPane.QUESTION_MESSAGE, null,
+                new String[]{XHTML_STRICT_OPTION, HTML5_OPTION, CUSTOM_OPTION}, XHTML_STRICT_OPTION);
+
+        if (option == null) {
+            return null;
+        }
+
+        ValidationProfileLoader loader = new ValidationProfileLoader();
+
+        if (option.equals(HTML5_OPTION)) {
+            return loader.loadBuiltIn(ValidationProfileLoader.HTML5);
+        }
+        if (!option.equals(CUSTOM_OPTION)) {
+            return loader.loadBuiltIn(ValidationProfileLoader.XHTML_STRICT);
+        }
+
+        JFileChooser profileChooser = new JFileChooser();
+        if (profileChooser.showOpenDialog(null) != JFileChooser.APPROVE_OPTION) {
+            return null;
+        }
+
+        File profileFile = profileChooser.getSelectedFile();
+        String definition = new HtmlFileReader().readContent(profileFile.getAbsolutePath());
+        return loader.load(profileFile.getName(), definition);
+    }
 }